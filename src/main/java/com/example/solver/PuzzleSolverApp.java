@@ -1,12 +1,18 @@
 package com.example.solver;
 
+import com.example.solver.domain.GoalLayout;
 import com.example.solver.domain.MoveDirection;
 import com.example.solver.domain.PuzzleBoard;
 import com.example.solver.domain.PuzzleBoardException;
+import com.example.solver.domain.SolverResult;
 import com.example.solver.io.PuzzleLoader;
+import com.example.solver.io.ResultFileWriter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -21,6 +27,8 @@ public class PuzzleSolverApp {
     private static final Logger logger = LogManager.getLogger();
 
     private PriorityQueue<PuzzleBoard> queue;
+    private GoalLayout goalLayout;
+    private long nodesExpanded;
 
     public PuzzleSolverApp(PuzzleBoard puzzleBoard) {
         // TODO add manhattan distance heuristic
@@ -28,23 +36,82 @@ public class PuzzleSolverApp {
         this.queue.add(puzzleBoard);
     }
 
+    /**
+     * Initializes a solver for a custom goal layout, the board is searched in its relabeled standard goal form.
+     *
+     * @param puzzleBoard the initial board layout
+     * @param goalLayout the goal layout to solve the board for
+     * @throws PuzzleBoardException if the board cannot reach the goal layout
+     */
+    public PuzzleSolverApp(PuzzleBoard puzzleBoard, GoalLayout goalLayout) throws PuzzleBoardException {
+        this(goalLayout.toCanonical(puzzleBoard));
+        this.goalLayout = goalLayout;
+    }
+
     public static void main(String[] args) {
-        if (args.length == 0) {
+        String goalData = null;
+        String resultsFile = null;
+        List<String> boardFiles = new ArrayList<>();
+        boolean missingOptionValue = false;
+        for (int i = 0; i < args.length; i++) {
+            if ("--goal".equals(args[i]) || "--output".equals(args[i])) {
+                if (i + 1 == args.length) {
+                    missingOptionValue = true;
+                } else if ("--goal".equals(args[i])) {
+                    goalData = args[++i];
+                } else {
+                    resultsFile = args[++i];
+                }
+            } else {
+                boardFiles.add(args[i]);
+            }
+        }
+
+        if (boardFiles.isEmpty() || missingOptionValue) {
             System.out.println("Sliding puzzle solver app");
-            System.out.println("Usage: java -jar sliding-puzzle-solver.jar [FILE]");
+            System.out.println("Usage: java -jar sliding-puzzle-solver.jar [--goal GOAL_FILE] [--output RESULTS_FILE] "
+                    + "[FILE]...");
             System.out.println("[FILE] = initial puzzle board values");
+            System.out.println("[GOAL_FILE] = optional goal board values (default: tiles ascending, empty tile last)");
+            System.out.println("[RESULTS_FILE] = optional binary results file (default: log solutions as text)");
             Runtime.getRuntime().exit(1);
         }
 
-        String boardData = args[0];
         try {
+            GoalLayout goalLayout = null;
+            if (goalData != null) {
+                goalLayout = PuzzleLoader.createGoalFromTextFile(goalData);
+                logger.info("Loaded goal board layout");
+            }
+
+            if (resultsFile == null) {
+                for (String boardData : boardFiles) {
+                    solveAndLog(boardData, goalLayout);
+                }
+            } else {
+                solveToResultFile(boardFiles, goalLayout, Paths.get(resultsFile));
+            }
 
-            PuzzleBoard puzzleBoard = PuzzleLoader.createPuzzleFromTextFile(boardData);
+        } catch (PuzzleBoardException e) {
+            logger.error("Invalid goal board data - exiting", e);
+        } catch (IOException e) {
+            logger.error("Unable to write results file - exiting", e);
+        }
+    }
+
+    /**
+     * Loads a board layout file and solves it, the initial and solved boards are logged as text.
+     *
+     * @param boardData the board layout file to solve
+     * @param goalLayout the goal layout to solve the board for, or null for the standard goal
+     */
+    private static void solveAndLog(String boardData, GoalLayout goalLayout) {
+        try {
+            PuzzleBoard puzzleBoard = loadBoard(boardData, goalLayout);
             logger.info("Loaded initial board layout");
             logger.info(puzzleBoard.toString());
 
-            PuzzleSolverApp app = new PuzzleSolverApp(puzzleBoard);
-            PuzzleBoard solvedBoard = app.solve();
+            PuzzleBoard solvedBoard = createSolver(puzzleBoard, goalLayout).solve();
 
             if (solvedBoard != null) {
                 logger.info("Solved board layout");
@@ -53,7 +120,95 @@ public class PuzzleSolverApp {
             }
 
         } catch (PuzzleBoardException e) {
-            logger.error("Invalid game board data - exiting", e);
+            logger.error("Invalid game board data - skipping " + boardData, e);
+        }
+    }
+
+    /**
+     * Loads and solves a batch of board layout files, writing one binary record per board to a result file.
+     * Boards are numbered in the order they are given, invalid boards and boards that cannot be stored are skipped.
+     *
+     * @param boardFiles the board layout files to solve
+     * @param goalLayout the goal layout to solve the boards for, or null for the standard goal
+     * @param resultsFile the binary result file to create
+     * @throws IOException if an error occurs writing to the result file
+     */
+    static void solveToResultFile(List<String> boardFiles, GoalLayout goalLayout, Path resultsFile)
+            throws IOException {
+        if (goalLayout != null) {
+            // boards are validated against the goal, so goal tile values that fit the result file cover every board
+            try {
+                ResultFileWriter.checkBoardSize(goalLayout.getSize());
+                ResultFileWriter.checkTileValues(goalLayout.getTiles());
+            } catch (IllegalArgumentException e) {
+                logger.error("Goal board layout cannot be stored in a result file - exiting: " + e.getMessage());
+                return;
+            }
+        }
+
+        ResultFileWriter writer = null;
+        try {
+            for (int boardId = 0; boardId < boardFiles.size(); boardId++) {
+                String boardData = boardFiles.get(boardId);
+                PuzzleBoard puzzleBoard;
+                PuzzleSolverApp app;
+                try {
+                    puzzleBoard = loadBoard(boardData, goalLayout);
+                    app = createSolver(puzzleBoard, goalLayout);
+                } catch (PuzzleBoardException e) {
+                    logger.error("Invalid game board data - skipping " + boardData, e);
+                    continue;
+                }
+
+                try {
+                    if (writer == null) {
+                        // all records in a result file share the board size of the first stored board
+                        ResultFileWriter.checkBoardSize(puzzleBoard.getSize());
+                        writer = new ResultFileWriter(resultsFile, puzzleBoard.getSize());
+                    }
+                    writer.checkBoard(puzzleBoard.getSize(), puzzleBoard.getTiles());
+                } catch (IllegalArgumentException e) {
+                    logger.error("Board cannot be stored in the result file - skipping " + boardData + ": "
+                            + e.getMessage());
+                    continue;
+                }
+
+                long startTime = System.nanoTime();
+                PuzzleBoard solvedBoard = app.solve();
+                long solveTime = System.nanoTime() - startTime;
+
+                if (solvedBoard != null && solvedBoard.getMoves().size() > writer.getMaxMoves()) {
+                    logger.error("Solution of " + solvedBoard.getMoves().size() + " moves exceeds the result file "
+                            + "maximum of " + writer.getMaxMoves() + " moves - skipping " + boardData);
+                    continue;
+                }
+                writer.write(new SolverResult(boardId, puzzleBoard.getSize(), puzzleBoard.getTiles(),
+                        solvedBoard == null ? null : solvedBoard.getMoves(), app.getNodesExpanded(), solveTime));
+            }
+            if (writer != null) {
+                logger.info("Wrote solver results to " + resultsFile);
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    private static PuzzleBoard loadBoard(String boardData, GoalLayout goalLayout) throws PuzzleBoardException {
+        if (goalLayout != null) {
+            return PuzzleLoader.createPuzzleFromTextFile(boardData, goalLayout);
+        } else {
+            return PuzzleLoader.createPuzzleFromTextFile(boardData);
+        }
+    }
+
+    private static PuzzleSolverApp createSolver(PuzzleBoard puzzleBoard, GoalLayout goalLayout)
+            throws PuzzleBoardException {
+        if (goalLayout != null) {
+            return new PuzzleSolverApp(puzzleBoard, goalLayout);
+        } else {
+            return new PuzzleSolverApp(puzzleBoard);
         }
     }
 
@@ -84,6 +239,15 @@ public class PuzzleSolverApp {
         return nextBoards;
     }
 
+    /**
+     * Returns the number of board states expanded by the last call to {@link #solve()}.
+     *
+     * @return the number of board states whose next moves were generated
+     */
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
     /**
      * Searches for a solution to the initial board layout.
      *
@@ -92,6 +256,7 @@ public class PuzzleSolverApp {
     public PuzzleBoard solve() {
         Set<PuzzleBoard> visitedBoardStates = new HashSet<>();
         int iterations = 0;
+        this.nodesExpanded = 0;
         while (this.queue.size() > 0) {
             iterations++;
             if (iterations > MAX_ITERATIONS) {
@@ -100,9 +265,10 @@ public class PuzzleSolverApp {
             }
 
             PuzzleBoard currentBoard = this.queue.poll();
-            if (currentBoard.isSolved()) {
-                return currentBoard;
+            if (this.isGoal(currentBoard)) {
+                return this.goalLayout != null ? this.goalLayout.fromCanonical(currentBoard) : currentBoard;
             } else {
+                this.nodesExpanded++;
                 visitedBoardStates.add(currentBoard);
                 for (PuzzleBoard nextBoard : this.generateBoardStates(currentBoard)) {
                     if (!visitedBoardStates.contains(nextBoard)) {
@@ -114,4 +280,14 @@ public class PuzzleSolverApp {
         return null;
     }
 
+    /**
+     * Checks if a searched board has reached the goal layout.
+     *
+     * @param board the board layout, relabeled onto the standard goal when a custom goal is used
+     * @return true if the board is in the goal layout, false otherwise
+     */
+    private boolean isGoal(PuzzleBoard board) {
+        return this.goalLayout != null ? this.goalLayout.isSolved(board) : board.isSolved();
+    }
+
 }
@@ -0,0 +1,92 @@
+package com.example.solver;
+
+import com.example.solver.domain.SolverResult;
+import com.example.solver.io.ResultFileReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * This class converts a binary solver result file into human readable text.
+ *
+ * @author Mark Schilling
+ * @see <a href="https://github.com/code-fabriek/sliding-puzzle-solver">Github project</a>
+ */
+public class ResultConverterApp {
+
+    private static final Logger logger = LogManager.getLogger();
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Sliding puzzle solver result converter");
+            System.out.println("Usage: java -cp sliding-puzzle-solver.jar " + ResultConverterApp.class.getName()
+                    + " [RESULTS_FILE] [TEXT_FILE]");
+            System.out.println("[RESULTS_FILE] = binary solver results");
+            System.out.println("[TEXT_FILE] = optional text output file (default: standard output)");
+            Runtime.getRuntime().exit(1);
+        }
+
+        try {
+            if (args.length > 1) {
+                try (Writer out = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+                    convert(Paths.get(args[0]), out);
+                }
+            } else {
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+                convert(Paths.get(args[0]), out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            logger.error("Unable to convert result file - exiting", e);
+        }
+    }
+
+    /**
+     * Writes every record of a result file as one line of text.
+     *
+     * @param resultsFile the binary result file to read
+     * @param out the writer receiving the text lines
+     * @throws IOException if an error occurs reading the result file or writing the text
+     */
+    public static void convert(Path resultsFile, Writer out) throws IOException {
+        try (ResultFileReader reader = new ResultFileReader(resultsFile)) {
+            SolverResult result;
+            while ((result = reader.read()) != null) {
+                out.write(toText(result));
+                out.write(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Formats a solver result as one line of text.
+     *
+     * @param result the solver result to format
+     * @return the board id, start tiles, solution, nodes expanded and solve time separated by tabs
+     */
+    public static String toText(SolverResult result) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(result.getBoardId()).append('\t');
+        for (int i = 0; i < result.getTiles().length; i++) {
+            if (i > 0) {
+                sb.append(i % result.getSize() == 0 ? '/' : ' ');
+            }
+            sb.append(result.getTiles()[i]);
+        }
+        sb.append('\t');
+        if (result.isSolved()) {
+            sb.append(result.getMoves().size()).append('\t').append(result.getMoves());
+        } else {
+            sb.append("unsolved\t[]");
+        }
+        sb.append('\t').append(result.getNodesExpanded());
+        sb.append('\t').append(result.getSolveTimeNanos() / 1000).append("us");
+        return sb.toString();
+    }
+
+}
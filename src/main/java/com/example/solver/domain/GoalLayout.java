@@ -0,0 +1,296 @@
+package com.example.solver.domain;
+
+import com.google.common.primitives.Ints;
+
+import java.util.*;
+
+/**
+ * A custom goal layout for a sliding puzzle board.
+ *
+ * Boards are solved against a custom goal by mirroring/rotating them and relabeling their tiles in the order they
+ * appear in the goal, so the search runs on relabeled boards and the solution is mapped back onto the original tile
+ * values and moves.
+ *
+ * When the goal's empty tile is in a corner (e.g. empty tile first), the board is mirrored so the empty tile lands in
+ * the lower right and the relabeled goal is exactly the standard goal (tiles ascending, empty tile last), so
+ * heuristic tables built for the standard goal can be reused.  When it is not (e.g. a spiral goal) no symmetry can
+ * move it there: the tiles are relabeled in place, the relabeled goal keeps the empty tile in its original position
+ * and the empty tile position is checked separately.  Standard goal tables do not apply to those goals.
+ */
+public class GoalLayout {
+
+    // board symmetries as (transpose, flip rows, flip columns), identity first
+    private static final boolean[][] SYMMETRIES = new boolean[][] {
+            {false, false, false}, {false, false, true}, {false, true, false}, {false, true, true},
+            {true, false, false}, {true, false, true}, {true, true, false}, {true, true, true}
+    };
+
+    private int size;
+    private int[] tiles;
+    private int[] canonicalPositions;
+    private Map<Integer, Integer> canonicalLabels = new HashMap<>();
+    private Map<Integer, Integer> originalLabels = new HashMap<>();
+    private Map<MoveDirection, MoveDirection> canonicalMoves = new EnumMap<>(MoveDirection.class);
+    private Map<MoveDirection, MoveDirection> originalMoves = new EnumMap<>(MoveDirection.class);
+    private int canonicalEmptyTilePosition;
+
+    /**
+     * Initializes a new custom goal layout.
+     *
+     * @param size the size of the game board (e.g. size = 3 means the board is 3x3)
+     * @param tiles an array representing the goal tile values
+     * @throws PuzzleBoardException if the goal tile values contain invalid data
+     */
+    public GoalLayout(int size, int[] tiles) throws PuzzleBoardException {
+        if (size < 2) {
+            throw new IllegalArgumentException("Puzzle board size must be at least 2 x 2 tiles!");
+        }
+        if (tiles == null || tiles.length != size * size) {
+            throw new IllegalArgumentException("A goal value must be provided for every board tile!");
+        }
+        this.size = size;
+        this.tiles = tiles.clone();
+
+        this.validateGoal();
+        this.initCanonicalMapping();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int[] getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Initializes a new sliding puzzle game board that is validated against this goal instead of the standard goal.
+     *
+     * @param tiles an array representing the game board tile values
+     * @return a puzzle board using the tile values of this goal
+     * @throws PuzzleBoardException if the board does not match this goal or cannot reach it
+     */
+    public PuzzleBoard createBoard(int[] tiles) throws PuzzleBoardException {
+        this.toCanonicalTiles(tiles);
+        return new PuzzleBoard(this.size, tiles, Collections.emptyList());
+    }
+
+    /**
+     * Maps a puzzle board onto the standard goal layout.
+     *
+     * @param board the puzzle board using the tile values of this goal
+     * @return a puzzle board with relabeled tiles that is solved when the original board reaches this goal
+     * @throws PuzzleBoardException if the board does not match this goal or cannot reach it
+     */
+    public PuzzleBoard toCanonical(PuzzleBoard board) throws PuzzleBoardException {
+        int[] canonicalTiles = this.toCanonicalTiles(board.getTiles());
+        List<MoveDirection> moves = new ArrayList<>(board.getMoves().size());
+        for (MoveDirection move : board.getMoves()) {
+            moves.add(this.canonicalMoves.get(move));
+        }
+
+        return new PuzzleBoard(this.size, canonicalTiles, moves);
+    }
+
+    /**
+     * Maps a board returned by {@link #toCanonical} back onto the tile values and moves of this goal.
+     *
+     * @param canonicalBoard the puzzle board using the standard goal labels
+     * @return the puzzle board using the tile values of this goal
+     */
+    public PuzzleBoard fromCanonical(PuzzleBoard canonicalBoard) {
+        int[] originalTiles = new int[this.tiles.length];
+        for (int i = 0; i < originalTiles.length; i++) {
+            originalTiles[i] = this.originalLabels.get(canonicalBoard.getTiles()[this.canonicalPositions[i]]);
+        }
+        List<MoveDirection> moves = new ArrayList<>(canonicalBoard.getMoves().size());
+        for (MoveDirection move : canonicalBoard.getMoves()) {
+            moves.add(this.originalMoves.get(move));
+        }
+
+        return new PuzzleBoard(this.size, originalTiles, moves);
+    }
+
+    /**
+     * Checks if a board returned by {@link #toCanonical} has reached this goal.
+     *
+     * @param canonicalBoard the puzzle board using the standard goal labels
+     * @return true if the original board is in the goal layout, false otherwise
+     */
+    public boolean isSolved(PuzzleBoard canonicalBoard) {
+        return canonicalBoard.getEmptyTilePosition() == this.canonicalEmptyTilePosition
+                && canonicalBoard.getInversionCount() == 0;
+    }
+
+    /**
+     * Mirrors and relabels board tile values onto the standard goal layout.
+     *
+     * @param tiles an array representing the game board tile values
+     * @return the tile values of the matching board in standard goal form
+     * @throws PuzzleBoardException if the board does not match this goal or cannot reach it
+     */
+    private int[] toCanonicalTiles(int[] tiles) throws PuzzleBoardException {
+        if (tiles == null || tiles.length != this.tiles.length) {
+            throw new PuzzleBoardException("Invalid board data - board size does not match the goal layout!");
+        }
+
+        int[] canonicalTiles = new int[tiles.length];
+        boolean[] usedLabels = new boolean[tiles.length];
+        for (int i = 0; i < tiles.length; i++) {
+            Integer label = this.canonicalLabels.get(tiles[i]);
+            if (label == null) {
+                throw new PuzzleBoardException("Invalid board data - tile values do not match the goal layout!");
+            }
+            if (usedLabels[label]) {
+                throw new PuzzleBoardException("Invalid board data - each board tile must have a unique value!");
+            }
+            usedLabels[label] = true;
+            canonicalTiles[this.canonicalPositions[i]] = label;
+        }
+
+        if (!this.isSolvable(canonicalTiles)) {
+            throw new PuzzleBoardException("Invalid board data - there is no solution for the given goal layout!");
+        }
+        return canonicalTiles;
+    }
+
+    /**
+     * Validates the goal tile values.
+     *
+     * @throws PuzzleBoardException if the goal tile values contain invalid data
+     */
+    private void validateGoal() throws PuzzleBoardException {
+        Set<Integer> uniqueGoalValues = new HashSet<>();
+        for (int value : this.tiles) {
+            if (!uniqueGoalValues.add(value)) {
+                throw new PuzzleBoardException("Invalid goal data - each goal tile must have a unique value!");
+            }
+        }
+        if (!uniqueGoalValues.contains(0)) {
+            throw new PuzzleBoardException("Invalid goal data - there must be one empty tile in the goal!");
+        }
+    }
+
+    /**
+     * Picks the board symmetry moving the goal's empty tile to the lower right corner and builds the position,
+     * tile label and move mappings to the standard goal layout.
+     */
+    private void initCanonicalMapping() {
+        int lastPosition = this.tiles.length - 1;
+        int emptyTilePosition = Ints.indexOf(this.tiles, 0);
+
+        boolean[] symmetry = SYMMETRIES[0];
+        for (boolean[] candidate : SYMMETRIES) {
+            if (this.transformPosition(emptyTilePosition, candidate) == lastPosition) {
+                symmetry = candidate;
+                break;
+            }
+        }
+
+        this.canonicalPositions = new int[this.tiles.length];
+        for (int i = 0; i < this.tiles.length; i++) {
+            this.canonicalPositions[i] = this.transformPosition(i, symmetry);
+        }
+        this.canonicalEmptyTilePosition = this.canonicalPositions[emptyTilePosition];
+
+        // tiles are numbered in the order they appear in the canonical goal, skipping the empty tile
+        for (int i = 0; i < this.tiles.length; i++) {
+            int position = this.canonicalPositions[i];
+            int label;
+            if (i == emptyTilePosition) {
+                label = 0;
+            } else if (position < this.canonicalEmptyTilePosition) {
+                label = position + 1;
+            } else {
+                label = position;
+            }
+            this.canonicalLabels.put(this.tiles[i], label);
+            this.originalLabels.put(label, this.tiles[i]);
+        }
+
+        for (MoveDirection move : MoveDirection.values()) {
+            MoveDirection canonicalMove = this.transformMove(move, symmetry);
+            this.canonicalMoves.put(move, canonicalMove);
+            this.originalMoves.put(canonicalMove, move);
+        }
+    }
+
+    private int transformPosition(int position, boolean[] symmetry) {
+        int row = position / this.size;
+        int column = position % this.size;
+        if (symmetry[0]) {
+            int swap = row;
+            row = column;
+            column = swap;
+        }
+        if (symmetry[1]) {
+            row = this.size - 1 - row;
+        }
+        if (symmetry[2]) {
+            column = this.size - 1 - column;
+        }
+        return row * this.size + column;
+    }
+
+    private MoveDirection transformMove(MoveDirection move, boolean[] symmetry) {
+        // apply the symmetry to the (row, column) step the empty tile takes
+        int rowStep = move == MoveDirection.UP ? -1 : move == MoveDirection.DOWN ? 1 : 0;
+        int columnStep = move == MoveDirection.LEFT ? -1 : move == MoveDirection.RIGHT ? 1 : 0;
+        if (symmetry[0]) {
+            int swap = rowStep;
+            rowStep = columnStep;
+            columnStep = swap;
+        }
+        if (symmetry[1]) {
+            rowStep = -rowStep;
+        }
+        if (symmetry[2]) {
+            columnStep = -columnStep;
+        }
+
+        if (rowStep != 0) {
+            return rowStep < 0 ? MoveDirection.UP : MoveDirection.DOWN;
+        } else {
+            return columnStep < 0 ? MoveDirection.LEFT : MoveDirection.RIGHT;
+        }
+    }
+
+    /**
+     * Checks if a board in standard goal form can reach this goal.
+     *
+     * A layout can be reached when the parity of the tile permutation matches the parity of the distance the empty
+     * tile has to travel, which holds for any board size and any goal position of the empty tile.
+     *
+     * @param canonicalTiles the board tile values using the standard goal labels
+     * @return true if a solution can be found for the board, false otherwise
+     */
+    private boolean isSolvable(int[] canonicalTiles) {
+        boolean[] visited = new boolean[canonicalTiles.length];
+        int transpositions = 0;
+
+        // a cycle of length n in the permutation takes n - 1 transpositions
+        for (int i = 0; i < canonicalTiles.length; i++) {
+            int position = i;
+            while (!visited[position]) {
+                visited[position] = true;
+                position = this.getCanonicalGoalPosition(canonicalTiles[position]);
+                if (!visited[position]) {
+                    transpositions++;
+                }
+            }
+        }
+
+        int emptyTilePosition = Ints.indexOf(canonicalTiles, 0);
+        int emptyTileDistance = Math.abs(emptyTilePosition / this.size - this.canonicalEmptyTilePosition / this.size)
+                + Math.abs(emptyTilePosition % this.size - this.canonicalEmptyTilePosition % this.size);
+        return transpositions % 2 == emptyTileDistance % 2;
+    }
+
+    private int getCanonicalGoalPosition(int label) {
+        if (label == 0) {
+            return this.canonicalEmptyTilePosition;
+        }
+        return label <= this.canonicalEmptyTilePosition ? label - 1 : label;
+    }
+
+}
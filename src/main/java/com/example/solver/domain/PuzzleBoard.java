@@ -51,6 +51,20 @@ public class PuzzleBoard {
         this.moves = new ArrayList<>(board.getMoves());
     }
 
+    /**
+     * Initializes a sliding puzzle game board from an already validated tile arrangement.
+     *
+     * @param size the size of the game board (e.g. size = 3 means the board is 3x3)
+     * @param tiles an array representing the game board tile values
+     * @param moves the list of moves made to reach this board
+     */
+    PuzzleBoard(int size, int[] tiles, List<MoveDirection> moves) {
+        this.size = size;
+        this.tiles = tiles.clone();
+        this.emptyTilePosition = Ints.indexOf(this.tiles, 0);
+        this.moves = new ArrayList<>(moves);
+    }
+
     public int[] getTiles() {
         return tiles;
     }
@@ -112,10 +126,10 @@ public class PuzzleBoard {
     /**
      * Checks if the current tile arrangement is a solved state.
      *
-     * @return true if all tile values are sorted in ascending order, false otherwise
+     * @return true if all tile values are sorted in ascending order with the empty tile last, false otherwise
      */
     public boolean isSolved() {
-        return this.getInversionCount() == 0;
+        return this.emptyTilePosition == this.tiles.length - 1 && this.getInversionCount() == 0;
     }
 
 
@@ -0,0 +1,70 @@
+package com.example.solver.domain;
+
+import java.util.List;
+
+/**
+ * The outcome of solving one puzzle board in a batch run.
+ */
+public class SolverResult {
+
+    private final int boardId;
+    private final int size;
+    private final int[] tiles;
+    private final List<MoveDirection> moves;
+    private final long nodesExpanded;
+    private final long solveTimeNanos;
+
+    /**
+     * Initializes a new solver result.
+     *
+     * @param boardId the id of the board within the batch run
+     * @param size the size of the game board (e.g. size = 3 means the board is 3x3)
+     * @param tiles the initial board tile values
+     * @param moves the list of moves solving the board, or null if no solution was found
+     * @param nodesExpanded the number of board states expanded by the search
+     * @param solveTimeNanos the time spent searching for a solution in nanoseconds
+     */
+    public SolverResult(int boardId, int size, int[] tiles, List<MoveDirection> moves, long nodesExpanded,
+                        long solveTimeNanos) {
+        this.boardId = boardId;
+        this.size = size;
+        this.tiles = tiles.clone();
+        this.moves = moves;
+        this.nodesExpanded = nodesExpanded;
+        this.solveTimeNanos = solveTimeNanos;
+    }
+
+    public int getBoardId() {
+        return boardId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int[] getTiles() {
+        return tiles;
+    }
+
+    public List<MoveDirection> getMoves() {
+        return moves;
+    }
+
+    public long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    public long getSolveTimeNanos() {
+        return solveTimeNanos;
+    }
+
+    /**
+     * Checks if a solution was found for the board.
+     *
+     * @return true if the result contains a list of moves, false otherwise
+     */
+    public boolean isSolved() {
+        return moves != null;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.solver.heuristic;
+
+import java.util.Locale;
+
+/**
+ * Base class holding the size and quality figures shared by all pattern table formats.
+ */
+public abstract class AbstractPatternTable implements PatternTable {
+
+    private final int entryCount;
+    private final double meanValue;
+    private final boolean lossless;
+
+    /**
+     * Initializes the table statistics.
+     *
+     * @param entryCount the number of pattern states covered by the table
+     * @param valueSum the sum of all heuristic values the table returns
+     * @param lossless true if the table returns the exact values it was built from
+     */
+    protected AbstractPatternTable(int entryCount, long valueSum, boolean lossless) {
+        this.entryCount = entryCount;
+        this.meanValue = entryCount == 0 ? 0 : (double) valueSum / entryCount;
+        this.lossless = lossless;
+    }
+
+    /**
+     * Checks that a table can be built from the given uncompressed values.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     */
+    protected static void validateValues(byte[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("A set of pattern database values must be provided!");
+        }
+        for (byte value : values) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Pattern database values must be between 0 and 127!");
+            }
+        }
+    }
+
+    /**
+     * Validates the given uncompressed values and adds them up.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     * @return the sum of all values
+     */
+    protected static long validatedSum(byte[] values) {
+        validateValues(values);
+        long sum = 0;
+        for (byte value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    @Override
+    public double getMeanValue() {
+        return meanValue;
+    }
+
+    @Override
+    public boolean isLossless() {
+        return lossless;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%s[entries=%d, bytes=%d, mean=%.3f, lossless=%b]",
+                this.getClass().getSimpleName(), this.getEntryCount(), this.getSizeInBytes(), this.getMeanValue(),
+                this.isLossless());
+    }
+
+}
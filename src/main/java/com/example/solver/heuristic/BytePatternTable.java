@@ -0,0 +1,30 @@
+package com.example.solver.heuristic;
+
+/**
+ * Uncompressed pattern table storing one byte per pattern state, used as the baseline for the packed formats.
+ */
+public class BytePatternTable extends AbstractPatternTable implements DirectPatternTable {
+
+    private final byte[] values;
+
+    /**
+     * Initializes a new uncompressed pattern table.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     */
+    public BytePatternTable(byte[] values) {
+        super(values == null ? 0 : values.length, validatedSum(values), true);
+        this.values = values.clone();
+    }
+
+    @Override
+    public int getValue(int index) {
+        return this.values[index];
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        return this.values.length;
+    }
+
+}
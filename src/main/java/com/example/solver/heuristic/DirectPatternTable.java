@@ -0,0 +1,16 @@
+package com.example.solver.heuristic;
+
+/**
+ * A pattern table that stores a value for every pattern state, so any entry can be looked up without search context.
+ */
+public interface DirectPatternTable extends PatternTable {
+
+    /**
+     * Looks up the heuristic value of a pattern state.
+     *
+     * @param index the rank of the pattern state
+     * @return the heuristic value of the pattern state
+     */
+    int getValue(int index);
+
+}
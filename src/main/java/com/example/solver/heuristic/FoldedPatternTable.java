@@ -0,0 +1,78 @@
+package com.example.solver.heuristic;
+
+/**
+ * Lossy pattern table folding each run of adjacent pattern states into one entry.
+ *
+ * Each entry keeps the minimum value of the states it replaces, so the table shrinks by the fold factor while the
+ * heuristic stays admissible.  States with adjacent ranks are usually close in the search space and have similar
+ * values, which keeps the loss small.
+ *
+ * @see "Felner et al. - Compressed pattern databases, JAIR 30 (2007)"
+ */
+public class FoldedPatternTable extends AbstractPatternTable implements DirectPatternTable {
+
+    private final byte[] foldedValues;
+    private final int foldFactor;
+
+    /**
+     * Initializes a new folded pattern table.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     * @param foldFactor the number of adjacent pattern states folded into one entry, fold factors larger than the
+     *                   number of states fold the whole table into one entry
+     */
+    public FoldedPatternTable(byte[] values, int foldFactor) {
+        this(fold(values, foldFactor), values.length, Math.min(foldFactor, values.length));
+    }
+
+    private FoldedPatternTable(byte[] foldedValues, int entryCount, int foldFactor) {
+        super(entryCount, foldedSum(foldedValues, entryCount, foldFactor), foldFactor == 1);
+
+        this.foldedValues = foldedValues;
+        this.foldFactor = foldFactor;
+    }
+
+    private static byte[] fold(byte[] values, int foldFactor) {
+        validateValues(values);
+        if (foldFactor < 1) {
+            throw new IllegalArgumentException("Fold factor must be at least 1!");
+        }
+
+        // long arithmetic keeps the run bounds from overflowing for large tables
+        long factor = Math.min(foldFactor, values.length);
+        byte[] folded = new byte[(int) ((values.length + factor - 1) / factor)];
+        for (int i = 0; i < folded.length; i++) {
+            byte min = Byte.MAX_VALUE;
+            for (int j = (int) (i * factor); j < Math.min(values.length, (i + 1) * factor); j++) {
+                min = (byte) Math.min(min, values[j]);
+            }
+            folded[i] = min;
+        }
+        return folded;
+    }
+
+    private static long foldedSum(byte[] foldedValues, int entryCount, int foldFactor) {
+        long sum = 0;
+        for (int i = 0; i < foldedValues.length; i++) {
+            // the last entry may cover fewer states than the fold factor
+            long foldedStates = Math.min(foldFactor, entryCount - (long) i * foldFactor);
+            sum += (long) foldedValues[i] * foldedStates;
+        }
+        return sum;
+    }
+
+    public int getFoldFactor() {
+        return foldFactor;
+    }
+
+    @Override
+    public int getValue(int index) {
+        return this.foldedValues[index / this.foldFactor];
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        return this.foldedValues.length;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.solver.heuristic;
+
+import java.util.function.IntFunction;
+
+/**
+ * Pattern table storing each value modulo 3 in 2 bits (4 pattern states per byte).
+ *
+ * Neighbouring pattern states differ by at most one move, so the exact value of a state can be recovered from the
+ * value of its parent in the search: it is the one of parent - 1, parent and parent + 1 with a matching remainder.
+ * The value of the start state has to be found once per search with {@link #getRootValue}.
+ *
+ * As values cannot be read without the parent value, this is not a {@link DirectPatternTable}.
+ *
+ * @see "Breyer and Korf - 1.6-bit pattern databases, AAAI 2010"
+ */
+public class Mod3PatternTable extends AbstractPatternTable {
+
+    private final byte[] packedRemainders;
+
+    /**
+     * Initializes a new mod-3 encoded pattern table.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     */
+    public Mod3PatternTable(byte[] values) {
+        super(values == null ? 0 : values.length, validatedSum(values), true);
+
+        this.packedRemainders = new byte[(values.length + 3) / 4];
+        for (int i = 0; i < values.length; i++) {
+            this.packedRemainders[i >> 2] |= (values[i] % 3) << ((i & 3) << 1);
+        }
+    }
+
+    /**
+     * Returns the value of the pattern state modulo 3.
+     *
+     * @param index the rank of the pattern state
+     * @return the stored remainder (0, 1 or 2)
+     */
+    public int getRemainder(int index) {
+        return (this.packedRemainders[index >> 2] >>> ((index & 3) << 1)) & 0x03;
+    }
+
+    /**
+     * Looks up the exact heuristic value of a pattern state reached from its parent.
+     *
+     * @param index the rank of the pattern state
+     * @param parentValue the exact heuristic value of the parent state, which must be one move away
+     * @return the heuristic value of the pattern state
+     */
+    public int getValue(int index, int parentValue) {
+        // remainder of (value - parentValue + 1) is 0, 1 or 2 for value = parent - 1, parent, parent + 1
+        int delta = Math.floorMod(this.getRemainder(index) - parentValue + 1, 3);
+        return parentValue - 1 + delta;
+    }
+
+    /**
+     * Recovers the exact value of a pattern state by descending to a goal state, following neighbours whose value
+     * is one lower until a state with remainder 0 has no such neighbour (a state with value 0).
+     *
+     * @param index the rank of the pattern state, usually the start state of a search
+     * @param neighbours returns the ranks of all pattern states one move away from the given rank
+     * @return the exact heuristic value of the pattern state
+     */
+    public int getRootValue(int index, IntFunction<int[]> neighbours) {
+        int value = 0;
+        int current = index;
+        while (true) {
+            int remainder = this.getRemainder(current);
+            int lowerRemainder = (remainder + 2) % 3;
+            int next = -1;
+            for (int neighbour : neighbours.apply(current)) {
+                if (this.getRemainder(neighbour) == lowerRemainder) {
+                    next = neighbour;
+                    break;
+                }
+            }
+            if (next < 0) {
+                if (remainder != 0) {
+                    throw new IllegalStateException("No path to a goal state found from pattern state " + index);
+                }
+                return value;
+            }
+            current = next;
+            value++;
+        }
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        return this.packedRemainders.length;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.solver.heuristic;
+
+/**
+ * Pattern table packing two values into each byte (4 bits per pattern state).
+ *
+ * Values above 15 are clamped to 15, which keeps the heuristic admissible but loses information; the table is only
+ * lossless when every stored value fits into a nibble.
+ */
+public class NibblePatternTable extends AbstractPatternTable implements DirectPatternTable {
+
+    public static final int MAX_VALUE = 0x0F;
+
+    private final byte[] packedValues;
+
+    /**
+     * Initializes a new nibble packed pattern table.
+     *
+     * @param values the heuristic value of every pattern state, indexed by rank
+     */
+    public NibblePatternTable(byte[] values) {
+        super(values == null ? 0 : values.length, clampedSum(values), maxValue(values) <= MAX_VALUE);
+
+        this.packedValues = new byte[(values.length + 1) / 2];
+        for (int i = 0; i < values.length; i++) {
+            int value = Math.min(values[i], MAX_VALUE);
+            // even indexes go into the low nibble, odd indexes into the high nibble
+            this.packedValues[i >> 1] |= value << ((i & 1) << 2);
+        }
+    }
+
+    private static long clampedSum(byte[] values) {
+        validateValues(values);
+        long sum = 0;
+        for (byte value : values) {
+            sum += Math.min(value, MAX_VALUE);
+        }
+        return sum;
+    }
+
+    private static int maxValue(byte[] values) {
+        int max = 0;
+        for (byte value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    @Override
+    public int getValue(int index) {
+        return (this.packedValues[index >> 1] >>> ((index & 1) << 2)) & MAX_VALUE;
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        return this.packedValues.length;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.solver.heuristic;
+
+/**
+ * A read-only table of pattern database heuristic values, indexed by the rank of a pattern state.
+ *
+ * Implementations trade memory for heuristic quality: lossless tables return the exact distance stored at build
+ * time, lossy tables return a lower bound of it so the heuristic stays admissible.  How values are looked up depends
+ * on the format, see {@link DirectPatternTable} for tables that can be read at any index on their own.
+ */
+public interface PatternTable {
+
+    /**
+     * Returns the number of pattern states covered by this table.
+     *
+     * @return the number of table entries
+     */
+    int getEntryCount();
+
+    /**
+     * Returns the memory used by the packed table values.
+     *
+     * @return the table size in bytes
+     */
+    long getSizeInBytes();
+
+    /**
+     * Returns the average heuristic value over all entries, the usual measure of pattern database quality.
+     *
+     * @return the mean heuristic value returned by this table
+     */
+    double getMeanValue();
+
+    /**
+     * Checks if this table returns the exact values it was built from.
+     *
+     * @return true if no heuristic information was lost when packing the table, false otherwise
+     */
+    boolean isLossless();
+
+}
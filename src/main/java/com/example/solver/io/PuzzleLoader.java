@@ -1,5 +1,6 @@
 package com.example.solver.io;
 
+import com.example.solver.domain.GoalLayout;
 import com.example.solver.domain.PuzzleBoard;
 import com.example.solver.domain.PuzzleBoardException;
 import com.google.common.base.CharMatcher;
@@ -66,13 +67,13 @@ public class PuzzleLoader {
     }
 
     /**
-     * Factory method to initialize a new PuzzleBoard from a data file containing the board layout
+     * Loads a text file containing a square board layout and flattens it into one array of tile values.
      *
      * @param filePath the text data file to load
-     * @return a PuzzleBoard instance initialized with tile values from the data file
-     * @throws PuzzleBoardException if an error occurs creating the puzzle board
+     * @return an array of tile values (top left to lower right)
+     * @throws PuzzleBoardException if the data file cannot be loaded or is not a square board
      */
-    public static PuzzleBoard createPuzzleFromTextFile(String filePath) throws PuzzleBoardException {
+    private static int[] loadSquareBoardValues(String filePath) throws PuzzleBoardException {
         try {
             int[][] tileGrid = loadBoardValues(filePath);
 
@@ -81,16 +82,50 @@ public class PuzzleLoader {
             }
 
             // flatten 2-dimensional grid into one array (top left to lower right)
-            int[] tiles = Ints.concat(tileGrid);
-
-            return new PuzzleBoard(tileGrid.length, tiles);
+            return Ints.concat(tileGrid);
 
         } catch (IOException e) {
             throw new PuzzleBoardException("Unable to load puzzle board data file", e);
         } catch (NumberFormatException e) {
             throw new PuzzleBoardException("Invalid puzzle board tile values (must be numeric)", e);
         }
+    }
+
+    /**
+     * Factory method to initialize a new PuzzleBoard from a data file containing the board layout
+     *
+     * @param filePath the text data file to load
+     * @return a PuzzleBoard instance initialized with tile values from the data file
+     * @throws PuzzleBoardException if an error occurs creating the puzzle board
+     */
+    public static PuzzleBoard createPuzzleFromTextFile(String filePath) throws PuzzleBoardException {
+        int[] tiles = loadSquareBoardValues(filePath);
+        return new PuzzleBoard((int) Math.sqrt(tiles.length), tiles);
+    }
+
+    /**
+     * Factory method to initialize a new PuzzleBoard from a data file, validated against a custom goal layout
+     *
+     * @param filePath the text data file to load
+     * @param goalLayout the goal layout the board will be solved for
+     * @return a PuzzleBoard instance initialized with tile values from the data file
+     * @throws PuzzleBoardException if an error occurs creating the puzzle board
+     */
+    public static PuzzleBoard createPuzzleFromTextFile(String filePath, GoalLayout goalLayout)
+            throws PuzzleBoardException {
+        return goalLayout.createBoard(loadSquareBoardValues(filePath));
+    }
 
+    /**
+     * Factory method to initialize a new GoalLayout from a data file containing the goal board layout
+     *
+     * @param filePath the text data file to load
+     * @return a GoalLayout instance initialized with tile values from the data file
+     * @throws PuzzleBoardException if an error occurs creating the goal layout
+     */
+    public static GoalLayout createGoalFromTextFile(String filePath) throws PuzzleBoardException {
+        int[] tiles = loadSquareBoardValues(filePath);
+        return new GoalLayout((int) Math.sqrt(tiles.length), tiles);
     }
 
 }
@@ -0,0 +1,224 @@
+package com.example.solver.io;
+
+import com.example.solver.domain.MoveDirection;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Layout of the binary solver result file.
+ *
+ * The file starts with a header (magic number, format version, board size and maximum number of moves per record)
+ * followed by fixed-width records, so a record can be located by its index without parsing the file:
+ * <pre>
+ *   int    board id
+ *   byte[] start tile values, packed with the fewest bits that fit the largest tile value
+ *   short  solution length, -1 if no solution was found
+ *   byte[] solution moves, 2 bits per move (move direction ordinal)
+ *   long   number of board states expanded
+ *   long   solve time in nanoseconds
+ * </pre>
+ */
+final class ResultFileFormat {
+
+    static final int MAGIC = 0x53505352; // "SPSR"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final MoveDirection[] MOVES = MoveDirection.values();
+
+    private final int size;
+    private final int maxMoves;
+    private final int bitsPerTile;
+    private final int tileBytes;
+    private final int moveBytes;
+
+    ResultFileFormat(int size, int maxMoves) {
+        checkSize(size);
+        if (maxMoves < 0 || maxMoves > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Result file maximum moves must be between 0 and " + Short.MAX_VALUE);
+        }
+        this.size = size;
+        this.maxMoves = maxMoves;
+        this.bitsPerTile = 32 - Integer.numberOfLeadingZeros(size * size - 1);
+        this.tileBytes = (size * size * this.bitsPerTile + 7) / 8;
+        this.moveBytes = (maxMoves + 3) / 4;
+    }
+
+    /**
+     * Checks that boards of the given size can be stored, tile values must fit into one byte.
+     *
+     * @param size the size of the game board
+     */
+    static void checkSize(int size) {
+        if (size < 2 || size > 15) {
+            throw new IllegalArgumentException("Result file board size must be between 2 x 2 and 15 x 15 tiles!");
+        }
+    }
+
+    /**
+     * Returns an upper bound for the length of optimal solutions on a board, used when no maximum is configured.
+     *
+     * @param size the size of the game board
+     * @return the maximum number of moves stored per record
+     */
+    static int getDefaultMaxMoves(int size) {
+        switch (size) {
+            case 2:
+                return 6;
+            case 3:
+                return 31;
+            case 4:
+                return 80;
+            default:
+                return 255;
+        }
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    int getMaxMoves() {
+        return maxMoves;
+    }
+
+    int getRecordSize() {
+        return 4 + this.tileBytes + 2 + this.moveBytes + 8 + 8;
+    }
+
+    void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.put((byte) this.size);
+        buffer.putShort((short) this.maxMoves);
+    }
+
+    /**
+     * Packs tile values into the buffer, most significant bit first.
+     *
+     * @param buffer the buffer to write to
+     * @param tiles the board tile values, each between 0 and size * size - 1
+     */
+    void putTiles(ByteBuffer buffer, int[] tiles) {
+        this.checkTiles(tiles);
+
+        long bits = 0;
+        int bitCount = 0;
+        int written = 0;
+        for (int tile : tiles) {
+            bits = (bits << this.bitsPerTile) | tile;
+            bitCount += this.bitsPerTile;
+            while (bitCount >= 8) {
+                bitCount -= 8;
+                buffer.put((byte) (bits >>> bitCount));
+                written++;
+            }
+        }
+        if (bitCount > 0) {
+            buffer.put((byte) (bits << (8 - bitCount)));
+            written++;
+        }
+        for (; written < this.tileBytes; written++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Checks that board tile values can be stored in this file.
+     *
+     * @param tiles the board tile values
+     */
+    void checkTiles(int[] tiles) {
+        if (tiles.length != this.size * this.size) {
+            throw new IllegalArgumentException("Board size does not match the result file board size!");
+        }
+        checkTileValues(tiles);
+    }
+
+    /**
+     * Checks that tile values can be packed, which requires the values 0 to n - 1 for n tiles.
+     *
+     * @param tiles the board tile values
+     */
+    static void checkTileValues(int[] tiles) {
+        for (int tile : tiles) {
+            if (tile < 0 || tile >= tiles.length) {
+                throw new IllegalArgumentException("Tile values must be between 0 and " + (tiles.length - 1));
+            }
+        }
+    }
+
+    int[] getTiles(ByteBuffer buffer) {
+        int[] tiles = new int[this.size * this.size];
+        int mask = (1 << this.bitsPerTile) - 1;
+        long bits = 0;
+        int bitCount = 0;
+        int read = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            while (bitCount < this.bitsPerTile) {
+                bits = (bits << 8) | (buffer.get() & 0xFF);
+                bitCount += 8;
+                read++;
+            }
+            bitCount -= this.bitsPerTile;
+            tiles[i] = (int) (bits >>> bitCount) & mask;
+        }
+        buffer.position(buffer.position() + this.tileBytes - read);
+        return tiles;
+    }
+
+    /**
+     * Writes the solution length followed by the moves packed 4 per byte, first move in the highest bits.
+     *
+     * @param buffer the buffer to write to
+     * @param moves the list of moves solving the board, or null if no solution was found
+     */
+    void putMoves(ByteBuffer buffer, List<MoveDirection> moves) {
+        if (moves == null) {
+            buffer.putShort((short) -1);
+            for (int i = 0; i < this.moveBytes; i++) {
+                buffer.put((byte) 0);
+            }
+            return;
+        }
+        if (moves.size() > this.maxMoves) {
+            throw new IllegalArgumentException("Solution length exceeds the result file maximum of "
+                    + this.maxMoves + " moves!");
+        }
+
+        buffer.putShort((short) moves.size());
+        int packed = 0;
+        for (int i = 0; i < this.moveBytes * 4; i++) {
+            int move = i < moves.size() ? moves.get(i).ordinal() : 0;
+            packed = (packed << 2) | move;
+            if ((i & 3) == 3) {
+                buffer.put((byte) packed);
+                packed = 0;
+            }
+        }
+    }
+
+    List<MoveDirection> getMoves(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            buffer.position(buffer.position() + this.moveBytes);
+            return null;
+        }
+        if (length > this.maxMoves) {
+            throw new IllegalStateException("Invalid result record - solution length exceeds " + this.maxMoves);
+        }
+
+        List<MoveDirection> moves = new ArrayList<>(length);
+        for (int i = 0; i < this.moveBytes; i++) {
+            int packed = buffer.get();
+            for (int shift = 6; shift >= 0 && moves.size() < length; shift -= 2) {
+                moves.add(MOVES[(packed >>> shift) & 0x03]);
+            }
+        }
+        return moves;
+    }
+
+}
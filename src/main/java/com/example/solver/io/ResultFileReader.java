@@ -0,0 +1,103 @@
+package com.example.solver.io;
+
+import com.example.solver.domain.MoveDirection;
+import com.example.solver.domain.SolverResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Reads solver results written by {@link ResultFileWriter}.
+ *
+ * @see ResultFileFormat
+ */
+public class ResultFileReader implements Closeable {
+
+    private final ResultFileFormat format;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Opens a result file and reads its header.
+     *
+     * @param filePath the result file to read
+     * @throws IOException if the result file cannot be read or is not a result file
+     */
+    public ResultFileReader(Path filePath) throws IOException {
+        this.channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(ResultFileFormat.HEADER_SIZE);
+            if (!this.fill(header, ResultFileFormat.HEADER_SIZE) || header.getInt() != ResultFileFormat.MAGIC) {
+                throw new IOException("Invalid result file - missing result file header");
+            }
+            byte version = header.get();
+            if (version != ResultFileFormat.VERSION) {
+                throw new IOException("Invalid result file - unsupported format version " + version);
+            }
+            this.format = new ResultFileFormat(header.get(), header.getShort());
+        } catch (IOException | IllegalArgumentException e) {
+            this.channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Invalid result file header", e);
+        }
+
+        this.buffer = ByteBuffer.allocateDirect(Math.max(ResultFileFormat.BUFFER_SIZE, this.format.getRecordSize()));
+        this.buffer.flip();
+    }
+
+    public int getSize() {
+        return this.format.getSize();
+    }
+
+    /**
+     * Reads the next solver result record.
+     *
+     * @return the next solver result, or null if the end of the file has been reached
+     * @throws IOException if an error occurs reading the result file or the last record is incomplete
+     */
+    public SolverResult read() throws IOException {
+        if (this.buffer.remaining() < this.format.getRecordSize()) {
+            this.buffer.compact();
+            boolean complete = this.fill(this.buffer, this.format.getRecordSize());
+            if (!complete) {
+                if (this.buffer.hasRemaining()) {
+                    throw new IOException("Invalid result file - last record is incomplete");
+                }
+                return null;
+            }
+        }
+
+        int boardId = this.buffer.getInt();
+        int[] tiles = this.format.getTiles(this.buffer);
+        List<MoveDirection> moves = this.format.getMoves(this.buffer);
+        long nodesExpanded = this.buffer.getLong();
+        long solveTimeNanos = this.buffer.getLong();
+        return new SolverResult(boardId, this.format.getSize(), tiles, moves, nodesExpanded, solveTimeNanos);
+    }
+
+    /**
+     * Reads from the channel into a buffer in write mode until it holds the given number of bytes or the end of the
+     * file is reached, then flips the buffer for reading.
+     *
+     * @return true if the buffer holds at least the given number of bytes, false otherwise
+     */
+    private boolean fill(ByteBuffer target, int minBytes) throws IOException {
+        while (target.position() < minBytes && target.hasRemaining()) {
+            if (this.channel.read(target) < 0) {
+                break;
+            }
+        }
+        target.flip();
+        return target.remaining() >= minBytes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.example.solver.io;
+
+import com.example.solver.domain.SolverResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes solver results as fixed-width binary records through a buffered file channel.
+ *
+ * @see ResultFileFormat
+ */
+public class ResultFileWriter implements Closeable {
+
+    private final ResultFileFormat format;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a new result file, storing solutions up to the longest optimal solution for the board size.
+     *
+     * @param filePath the result file to create (an existing file is overwritten)
+     * @param size the size of every board written to the file
+     * @throws IOException if the result file cannot be created
+     */
+    public ResultFileWriter(Path filePath, int size) throws IOException {
+        this(filePath, size, ResultFileFormat.getDefaultMaxMoves(size));
+    }
+
+    /**
+     * Creates a new result file.
+     *
+     * @param filePath the result file to create (an existing file is overwritten)
+     * @param size the size of every board written to the file
+     * @param maxMoves the maximum solution length that can be stored per record
+     * @throws IOException if the result file cannot be created
+     */
+    public ResultFileWriter(Path filePath, int size, int maxMoves) throws IOException {
+        this.format = new ResultFileFormat(size, maxMoves);
+        this.channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(Math.max(ResultFileFormat.BUFFER_SIZE, this.format.getRecordSize()));
+        this.format.writeHeader(this.buffer);
+    }
+
+    public int getSize() {
+        return this.format.getSize();
+    }
+
+    public int getMaxMoves() {
+        return this.format.getMaxMoves();
+    }
+
+    /**
+     * Checks that a board can be stored in this file, so the check can be done before solving it.
+     *
+     * @param size the size of the game board
+     * @param tiles the initial board tile values
+     * @throws IllegalArgumentException if the board size or tile values do not fit the result file
+     */
+    public void checkBoard(int size, int[] tiles) {
+        if (size != this.format.getSize()) {
+            throw new IllegalArgumentException("Board size does not match the result file board size!");
+        }
+        this.format.checkTiles(tiles);
+    }
+
+    /**
+     * Checks that boards of the given size can be stored in a result file, so it can be done before creating one.
+     *
+     * @param size the size of the game board
+     * @throws IllegalArgumentException if the board size is not supported by the result file format
+     */
+    public static void checkBoardSize(int size) {
+        ResultFileFormat.checkSize(size);
+    }
+
+    /**
+     * Checks that tile values can be stored in a result file, which requires the values 0 to n - 1 for n tiles.
+     *
+     * @param tiles the board tile values
+     * @throws IllegalArgumentException if a tile value is out of range
+     */
+    public static void checkTileValues(int[] tiles) {
+        ResultFileFormat.checkTileValues(tiles);
+    }
+
+    /**
+     * Appends a solver result record to the file.
+     *
+     * @param result the solver result to write
+     * @throws IOException if an error occurs writing to the result file
+     */
+    public void write(SolverResult result) throws IOException {
+        if (result.getSize() != this.format.getSize()) {
+            throw new IllegalArgumentException("Board size does not match the result file board size!");
+        }
+        if (this.buffer.remaining() < this.format.getRecordSize()) {
+            this.flush();
+        }
+
+        int recordStart = this.buffer.position();
+        try {
+            this.buffer.putInt(result.getBoardId());
+            this.format.putTiles(this.buffer, result.getTiles());
+            this.format.putMoves(this.buffer, result.getMoves());
+            this.buffer.putLong(result.getNodesExpanded());
+            this.buffer.putLong(result.getSolveTimeNanos());
+        } catch (IllegalArgumentException e) {
+            // discard the partially written record
+            this.buffer.position(recordStart);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes all buffered records to the result file.
+     *
+     * @throws IOException if an error occurs writing to the result file
+     */
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+}
@@ -1,12 +1,23 @@
 package com.example.solver;
 
+import com.example.solver.domain.GoalLayout;
+import com.example.solver.domain.GoalLayoutTest;
 import com.example.solver.domain.MoveDirection;
 import com.example.solver.domain.PuzzleBoard;
 import com.example.solver.domain.PuzzleBoardException;
 import com.example.solver.domain.PuzzleBoardTest;
+import com.example.solver.domain.SolverResult;
+import com.example.solver.io.ResultFileReader;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -16,6 +27,9 @@ public class PuzzleSolverAppTest {
     PuzzleBoard testBoard;
     PuzzleSolverApp testApp;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() throws PuzzleBoardException {
         this.testBoard = new PuzzleBoard(3, PuzzleBoardTest.BOARD_TILES_3x3);
@@ -49,6 +63,60 @@ public class PuzzleSolverAppTest {
         PuzzleBoard solvedBoard = this.testApp.solve();
         assertNotNull(solvedBoard);
         assertTrue(solvedBoard.isSolved());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 0}, solvedBoard.getTiles());
+    }
+
+    @Test public void testSolveCustomGoalBoard() throws PuzzleBoardException {
+        int[] boardTiles = new int[] {
+                3, 1, 2,
+                4, 7, 5,
+                6, 0, 8
+        };
+        GoalLayout goalLayout = new GoalLayout(3, GoalLayoutTest.EMPTY_FIRST_GOAL_3x3);
+        PuzzleSolverApp app = new PuzzleSolverApp(goalLayout.createBoard(boardTiles), goalLayout);
+
+        PuzzleBoard solvedBoard = app.solve();
+        assertNotNull(solvedBoard);
+        assertArrayEquals(GoalLayoutTest.EMPTY_FIRST_GOAL_3x3, solvedBoard.getTiles());
+        assertEquals(Arrays.asList(MoveDirection.UP, MoveDirection.LEFT, MoveDirection.UP), solvedBoard.getMoves());
+    }
+
+    @Test public void testSolveToResultFile() throws IOException, PuzzleBoardException {
+        // 16x16 boards cannot be stored in a result file, the empty tile is moved to the start of the bottom row
+        StringBuilder largeBoard = new StringBuilder();
+        for (int i = 0; i < 256; i++) {
+            int tile = i < 240 ? i + 1 : i == 240 ? 0 : i;
+            largeBoard.append(tile).append(i % 16 == 15 ? "\n" : " ");
+        }
+        List<String> boardFiles = Arrays.asList(
+                this.writeBoardFile("16x16-board.txt", largeBoard.toString()),
+                this.writeBoardFile("example-board.txt", "2 8 0\n4 1 3\n7 6 5\n"),
+                this.writeBoardFile("center-empty-board.txt", "1 2 3\n4 0 5\n6 7 8\n"));
+        File resultsFile = folder.newFile("results.bin");
+
+        PuzzleSolverApp.solveToResultFile(boardFiles, null, resultsFile.toPath());
+
+        try (ResultFileReader reader = new ResultFileReader(resultsFile.toPath())) {
+            for (int boardId = 1; boardId <= 2; boardId++) {
+                SolverResult result = reader.read();
+                assertEquals(boardId, result.getBoardId());
+                assertTrue(result.isSolved());
+
+                // replaying the stored moves from the stored start tiles must reach the goal
+                PuzzleBoard board = new PuzzleBoard(result.getSize(), result.getTiles());
+                for (MoveDirection move : result.getMoves()) {
+                    board.moveTile(move);
+                }
+                assertTrue(board.isSolved());
+            }
+            assertNull(reader.read());
+        }
+    }
+
+    private String writeBoardFile(String name, String boardData) throws IOException {
+        File boardFile = folder.newFile(name);
+        Files.write(boardFile.toPath(), boardData.getBytes(StandardCharsets.UTF_8));
+        return boardFile.getAbsolutePath();
     }
 
 }
@@ -0,0 +1,49 @@
+package com.example.solver;
+
+import com.example.solver.domain.MoveDirection;
+import com.example.solver.domain.PuzzleBoardTest;
+import com.example.solver.domain.SolverResult;
+import com.example.solver.io.ResultFileWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ResultConverterAppTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void testToText() {
+        SolverResult result = new SolverResult(7, 3, PuzzleBoardTest.BOARD_TILES_3x3,
+                Arrays.asList(MoveDirection.DOWN, MoveDirection.RIGHT), 12, 3456789);
+        assertEquals("7\t0 3 7/1 2 5/4 6 8\t2\t[DOWN, RIGHT]\t12\t3456us", ResultConverterApp.toText(result));
+    }
+
+    @Test public void testToTextUnsolved() {
+        SolverResult result = new SolverResult(8, 3, PuzzleBoardTest.BOARD_TILES_3x3, null, 1000000, 5000);
+        assertEquals("8\t0 3 7/1 2 5/4 6 8\tunsolved\t[]\t1000000\t5us", ResultConverterApp.toText(result));
+    }
+
+    @Test public void testConvert() throws IOException {
+        Path resultsFile = folder.newFile("results.bin").toPath();
+        try (ResultFileWriter writer = new ResultFileWriter(resultsFile, 3)) {
+            writer.write(new SolverResult(0, 3, PuzzleBoardTest.BOARD_TILES_3x3, null, 1, 1000));
+            writer.write(new SolverResult(1, 3, PuzzleBoardTest.BOARD_TILES_3x3, null, 2, 2000));
+        }
+
+        StringWriter out = new StringWriter();
+        ResultConverterApp.convert(resultsFile, out);
+        String[] lines = out.toString().split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("0\t"));
+        assertTrue(lines[1].startsWith("1\t"));
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.example.solver.domain;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class GoalLayoutTest {
+
+    public static final int[] EMPTY_FIRST_GOAL_3x3 = new int[] {
+            0, 1, 2,
+            3, 4, 5,
+            6, 7, 8
+    };
+
+    public static final int[] SPIRAL_GOAL_3x3 = new int[] {
+            1, 2, 3,
+            8, 0, 4,
+            7, 6, 5
+    };
+
+    private static final int[] STANDARD_GOAL_3x3 = new int[] {
+            1, 2, 3,
+            4, 5, 6,
+            7, 8, 0
+    };
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test public void testEmptyFirstGoalMapsOntoStandardGoal() throws PuzzleBoardException {
+        GoalLayout goalLayout = new GoalLayout(3, EMPTY_FIRST_GOAL_3x3);
+        PuzzleBoard canonicalBoard = goalLayout.toCanonical(goalLayout.createBoard(EMPTY_FIRST_GOAL_3x3));
+
+        assertArrayEquals(STANDARD_GOAL_3x3, canonicalBoard.getTiles());
+        assertTrue(goalLayout.isSolved(canonicalBoard));
+    }
+
+    @Test public void testSpiralGoalKeepsEmptyTilePosition() throws PuzzleBoardException {
+        GoalLayout goalLayout = new GoalLayout(3, SPIRAL_GOAL_3x3);
+        PuzzleBoard canonicalBoard = goalLayout.toCanonical(goalLayout.createBoard(SPIRAL_GOAL_3x3));
+
+        assertArrayEquals(new int[] {1, 2, 3, 4, 0, 5, 6, 7, 8}, canonicalBoard.getTiles());
+        assertTrue(goalLayout.isSolved(canonicalBoard));
+    }
+
+    @Test public void testMovesAreTranslatedBack() throws PuzzleBoardException {
+        int[] boardTiles = new int[] {
+                1, 0, 2,
+                3, 4, 5,
+                6, 7, 8
+        };
+        GoalLayout goalLayout = new GoalLayout(3, EMPTY_FIRST_GOAL_3x3);
+        PuzzleBoard canonicalBoard = goalLayout.toCanonical(goalLayout.createBoard(boardTiles));
+        assertFalse(goalLayout.isSolved(canonicalBoard));
+
+        // the board is rotated onto the standard goal, so moving left becomes moving right
+        canonicalBoard.moveTile(MoveDirection.RIGHT);
+        assertTrue(goalLayout.isSolved(canonicalBoard));
+
+        PuzzleBoard solvedBoard = goalLayout.fromCanonical(canonicalBoard);
+        assertArrayEquals(EMPTY_FIRST_GOAL_3x3, solvedBoard.getTiles());
+        assertEquals(Collections.singletonList(MoveDirection.LEFT), solvedBoard.getMoves());
+    }
+
+    @Test public void testCreateBoardUsesGoalSolvability() throws PuzzleBoardException {
+        int[] goalTiles = new int[] {
+                0, 1, 2, 3,
+                4, 5, 6, 7,
+                8, 9, 10, 11,
+                12, 13, 14, 15
+        };
+        int[] boardTiles = new int[] {
+                1, 0, 2, 3,
+                4, 5, 6, 7,
+                8, 9, 10, 11,
+                12, 13, 14, 15
+        };
+        PuzzleBoard puzzleBoard = new GoalLayout(4, goalTiles).createBoard(boardTiles);
+        assertEquals(1, puzzleBoard.getEmptyTilePosition());
+
+        // the same board cannot reach the standard goal
+        thrown.expect(PuzzleBoardException.class);
+        thrown.expectMessage("Invalid board data - there is no solution for the given board layout!");
+        new PuzzleBoard(4, boardTiles);
+    }
+
+    @Test public void testCreateUnsolvableBoardThrowsError() throws PuzzleBoardException {
+        thrown.expect(PuzzleBoardException.class);
+        thrown.expectMessage("Invalid board data - there is no solution for the given goal layout!");
+
+        int[] swappedTiles = new int[] {
+                2, 1, 3,
+                8, 0, 4,
+                7, 6, 5
+        };
+        new GoalLayout(3, SPIRAL_GOAL_3x3).createBoard(swappedTiles);
+    }
+
+    @Test public void testCreateMismatchedBoardThrowsError() throws PuzzleBoardException {
+        thrown.expect(PuzzleBoardException.class);
+        thrown.expectMessage("Invalid board data - tile values do not match the goal layout!");
+
+        int[] boardTiles = new int[] {
+                1, 2, 3,
+                9, 0, 4,
+                7, 6, 5
+        };
+        new GoalLayout(3, SPIRAL_GOAL_3x3).createBoard(boardTiles);
+    }
+
+    @Test public void testCreateNoEmptyTileGoalThrowsError() throws PuzzleBoardException {
+        thrown.expect(PuzzleBoardException.class);
+        thrown.expectMessage("Invalid goal data - there must be one empty tile in the goal!");
+
+        new GoalLayout(2, new int[] {1, 2, 3, 4});
+    }
+
+}
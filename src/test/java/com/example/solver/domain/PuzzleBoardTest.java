@@ -85,6 +85,22 @@ public class PuzzleBoardTest {
         new PuzzleBoard(4, unsolvableTiles);
     }
 
+    @Test public void testIsSolved() throws PuzzleBoardException {
+        int[] solvedTiles = new int[] {
+                1, 2, 3,
+                4, 5, 6,
+                7, 8, 0
+        };
+        int[] emptyTileMisplacedTiles = new int[] {
+                1, 2, 3,
+                4, 0, 5,
+                6, 7, 8
+        };
+        assertTrue(new PuzzleBoard(3, solvedTiles).isSolved());
+        assertFalse(new PuzzleBoard(3, emptyTileMisplacedTiles).isSolved());
+        assertFalse(new PuzzleBoard(3, BOARD_TILES_3x3).isSolved());
+    }
+
     @Test public void testToString() throws PuzzleBoardException {
         String expectedBoard = " === Board Moves: 0 === \n  | 3 | 7\n1 | 2 | 5\n4 | 6 | 8";
         PuzzleBoard puzzleBoard = new PuzzleBoard(3, BOARD_TILES_3x3);
@@ -0,0 +1,126 @@
+package com.example.solver.heuristic;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.*;
+
+public class PatternTableTest {
+
+    // distances along a chain of pattern states where state i is one move away from states i - 1 and i + 1
+    private static final byte[] CHAIN_VALUES = new byte[] {
+            0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20
+    };
+
+    private static final byte[] SMALL_VALUES = new byte[] {
+            3, 1, 4, 1, 5, 9, 2, 6, 5
+    };
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test public void testBytePatternTable() {
+        DirectPatternTable table = new BytePatternTable(SMALL_VALUES);
+        for (int i = 0; i < SMALL_VALUES.length; i++) {
+            assertEquals(SMALL_VALUES[i], table.getValue(i));
+        }
+        assertEquals(9, table.getEntryCount());
+        assertEquals(9, table.getSizeInBytes());
+        assertEquals(4.0, table.getMeanValue(), 0.0001);
+        assertTrue(table.isLossless());
+    }
+
+    @Test public void testNibblePatternTable() {
+        DirectPatternTable table = new NibblePatternTable(SMALL_VALUES);
+        for (int i = 0; i < SMALL_VALUES.length; i++) {
+            assertEquals(SMALL_VALUES[i], table.getValue(i));
+        }
+        assertEquals(5, table.getSizeInBytes());
+        assertEquals(4.0, table.getMeanValue(), 0.0001);
+        assertTrue(table.isLossless());
+    }
+
+    @Test public void testNibblePatternTableClampsLargeValues() {
+        DirectPatternTable table = new NibblePatternTable(CHAIN_VALUES);
+        assertEquals(14, table.getValue(14));
+        assertEquals(15, table.getValue(15));
+        assertEquals(15, table.getValue(20));
+        assertEquals(11, table.getSizeInBytes());
+        assertFalse(table.isLossless());
+        assertTrue(table.getMeanValue() < new BytePatternTable(CHAIN_VALUES).getMeanValue());
+    }
+
+    @Test public void testMod3PatternTableRecoversValuesFromParent() {
+        Mod3PatternTable table = new Mod3PatternTable(CHAIN_VALUES);
+        assertEquals(6, table.getSizeInBytes());
+        assertTrue(table.isLossless());
+
+        // walk the chain in both directions, feeding each recovered value back in as the parent value
+        int value = table.getValue(0, 1);
+        assertEquals(0, value);
+        for (int i = 1; i < CHAIN_VALUES.length; i++) {
+            value = table.getValue(i, value);
+            assertEquals(CHAIN_VALUES[i], value);
+        }
+        for (int i = CHAIN_VALUES.length - 2; i >= 0; i--) {
+            value = table.getValue(i, value);
+            assertEquals(CHAIN_VALUES[i], value);
+        }
+        assertEquals(17, table.getValue(17, 17));
+    }
+
+    @Test public void testMod3PatternTableRootValue() {
+        Mod3PatternTable table = new Mod3PatternTable(CHAIN_VALUES);
+        int last = CHAIN_VALUES.length - 1;
+        IntFunction<int[]> chain = i -> i == 0 ? new int[] {1}
+                : i == last ? new int[] {i - 1} : new int[] {i + 1, i - 1};
+        assertEquals(20, table.getRootValue(last, chain));
+        assertEquals(0, table.getRootValue(0, chain));
+    }
+
+    @Test public void testMod3PatternTableRootValueWithSeveralGoals() {
+        Mod3PatternTable table = new Mod3PatternTable(new byte[] {0, 1, 2, 1, 0});
+        IntFunction<int[]> chain = i -> i == 0 ? new int[] {1} : i == 4 ? new int[] {3} : new int[] {i - 1, i + 1};
+        assertEquals(0, table.getRootValue(4, chain));
+        assertEquals(1, table.getRootValue(3, chain));
+        assertEquals(2, table.getRootValue(2, chain));
+    }
+
+    @Test public void testFoldedPatternTable() {
+        DirectPatternTable table = new FoldedPatternTable(SMALL_VALUES, 2);
+        int[] expectedValues = new int[] {1, 1, 1, 1, 5, 5, 2, 2, 5};
+        for (int i = 0; i < expectedValues.length; i++) {
+            assertEquals(expectedValues[i], table.getValue(i));
+            assertTrue(table.getValue(i) <= SMALL_VALUES[i]);
+        }
+        assertEquals(5, table.getSizeInBytes());
+        assertEquals(23.0 / 9, table.getMeanValue(), 0.0001);
+        assertFalse(table.isLossless());
+    }
+
+    @Test public void testFoldedPatternTableLargeFoldFactor() {
+        FoldedPatternTable table = new FoldedPatternTable(SMALL_VALUES, Integer.MAX_VALUE);
+        for (int i = 0; i < SMALL_VALUES.length; i++) {
+            assertEquals(1, table.getValue(i));
+        }
+        assertEquals(SMALL_VALUES.length, table.getFoldFactor());
+        assertEquals(1, table.getSizeInBytes());
+        assertEquals(1.0, table.getMeanValue(), 0.0001);
+    }
+
+    @Test public void testToString() {
+        assertEquals("BytePatternTable[entries=9, bytes=9, mean=4.000, lossless=true]",
+                new BytePatternTable(SMALL_VALUES).toString());
+    }
+
+    @Test public void testNegativeValuesThrowError() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Pattern database values must be between 0 and 127!");
+
+        new NibblePatternTable(new byte[] {0, -1});
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.example.solver.io;
+
+import com.example.solver.domain.MoveDirection;
+import com.example.solver.domain.PuzzleBoardTest;
+import com.example.solver.domain.SolverResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ResultFileTest {
+
+    private static final List<MoveDirection> MOVES = Arrays.asList(
+            MoveDirection.DOWN, MoveDirection.DOWN, MoveDirection.LEFT, MoveDirection.LEFT, MoveDirection.UP,
+            MoveDirection.RIGHT, MoveDirection.UP, MoveDirection.LEFT, MoveDirection.DOWN, MoveDirection.DOWN,
+            MoveDirection.RIGHT, MoveDirection.UP, MoveDirection.RIGHT, MoveDirection.DOWN
+    );
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test public void testWriteAndReadResults() throws IOException {
+        Path resultsFile = folder.newFile("results.bin").toPath();
+        try (ResultFileWriter writer = new ResultFileWriter(resultsFile, 3)) {
+            writer.write(new SolverResult(0, 3, PuzzleBoardTest.BOARD_TILES_3x3, MOVES, 1234, 5678));
+            writer.write(new SolverResult(1, 3, PuzzleBoardTest.BOARD_TILES_3x3, null, 1000000, 42));
+        }
+
+        // header + 2 records of id, 5 tile bytes, length, 8 move bytes, nodes and time
+        assertEquals(8 + 2 * (4 + 5 + 2 + 8 + 8 + 8), Files.size(resultsFile));
+
+        try (ResultFileReader reader = new ResultFileReader(resultsFile)) {
+            assertEquals(3, reader.getSize());
+
+            SolverResult solved = reader.read();
+            assertEquals(0, solved.getBoardId());
+            assertArrayEquals(PuzzleBoardTest.BOARD_TILES_3x3, solved.getTiles());
+            assertTrue(solved.isSolved());
+            assertEquals(MOVES, solved.getMoves());
+            assertEquals(1234, solved.getNodesExpanded());
+            assertEquals(5678, solved.getSolveTimeNanos());
+
+            SolverResult unsolved = reader.read();
+            assertEquals(1, unsolved.getBoardId());
+            assertArrayEquals(PuzzleBoardTest.BOARD_TILES_3x3, unsolved.getTiles());
+            assertFalse(unsolved.isSolved());
+            assertEquals(1000000, unsolved.getNodesExpanded());
+
+            assertNull(reader.read());
+        }
+    }
+
+    @Test public void testWriteAndRead4x4Results() throws IOException {
+        Path resultsFile = folder.newFile("results-4x4.bin").toPath();
+        try (ResultFileWriter writer = new ResultFileWriter(resultsFile, 4)) {
+            for (int boardId = 0; boardId < 5000; boardId++) {
+                writer.write(new SolverResult(boardId, 4, PuzzleBoardTest.BOARD_TILES_4x4,
+                        MOVES.subList(0, boardId % MOVES.size()), boardId, boardId));
+            }
+        }
+
+        try (ResultFileReader reader = new ResultFileReader(resultsFile)) {
+            for (int boardId = 0; boardId < 5000; boardId++) {
+                SolverResult result = reader.read();
+                assertEquals(boardId, result.getBoardId());
+                assertArrayEquals(PuzzleBoardTest.BOARD_TILES_4x4, result.getTiles());
+                assertEquals(MOVES.subList(0, boardId % MOVES.size()), result.getMoves());
+            }
+            assertNull(reader.read());
+        }
+    }
+
+    @Test public void testUnsolvedRecordsAreZeroFilled() throws IOException {
+        Path resultsFile = folder.newFile("results.bin").toPath();
+        int records = 3000;
+        try (ResultFileWriter writer = new ResultFileWriter(resultsFile, 3)) {
+            for (int boardId = 0; boardId < records; boardId++) {
+                // only the last record is unsolved, after the buffer has been reused several times
+                writer.write(new SolverResult(boardId, 3, PuzzleBoardTest.BOARD_TILES_3x3,
+                        boardId < records - 1 ? MOVES : null, 0, 0));
+            }
+        }
+
+        byte[] data = Files.readAllBytes(resultsFile);
+        int recordSize = 4 + 5 + 2 + 8 + 8 + 8;
+        int moveStart = 8 + (records - 1) * recordSize + 4 + 5 + 2;
+        for (int i = moveStart; i < moveStart + 8; i++) {
+            assertEquals(0, data[i]);
+        }
+    }
+
+    @Test public void testCheckBoard() throws IOException {
+        try (ResultFileWriter writer = new ResultFileWriter(folder.newFile("results.bin").toPath(), 3)) {
+            assertEquals(31, writer.getMaxMoves());
+            writer.checkBoard(3, PuzzleBoardTest.BOARD_TILES_3x3);
+
+            thrown.expect(IllegalArgumentException.class);
+            thrown.expectMessage("Tile values must be between 0 and 8");
+            writer.checkBoard(3, new int[] {10, 20, 30, 40, 50, 60, 70, 80, 0});
+        }
+    }
+
+    @Test public void testCheckBoardSizeThrowsError() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Board size does not match the result file board size!");
+
+        try (ResultFileWriter writer = new ResultFileWriter(folder.newFile("results.bin").toPath(), 3)) {
+            writer.checkBoard(4, PuzzleBoardTest.BOARD_TILES_4x4);
+        }
+    }
+
+    @Test public void testWriteTooManyMovesThrowsError() throws IOException {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Solution length exceeds the result file maximum of 10 moves!");
+
+        try (ResultFileWriter writer = new ResultFileWriter(folder.newFile("results.bin").toPath(), 3, 10)) {
+            writer.write(new SolverResult(0, 3, PuzzleBoardTest.BOARD_TILES_3x3, MOVES, 0, 0));
+        }
+    }
+
+    @Test public void testReadInvalidFileThrowsError() throws IOException {
+        thrown.expect(IOException.class);
+        thrown.expectMessage("Invalid result file - missing result file header");
+
+        Path textFile = folder.newFile("board.txt").toPath();
+        Files.write(textFile, "0 3 7\n1 2 5\n4 6 8\n".getBytes());
+        new ResultFileReader(textFile);
+    }
+
+}